@@ -0,0 +1,20 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 포인트 전용 컨버터를 가장 앞에 두어 Jackson 보다 먼저 선택되도록 한다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PointHttpMessageConverter());
+    }
+}
@@ -2,6 +2,8 @@ package io.hhplus.tdd.point;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
@@ -14,4 +16,16 @@ public class LockManager {
     public Lock getLock(Long id) {
         return locks.computeIfAbsent(id, key -> new ReentrantLock());
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 유저의 락을 id 오름차순으로 반환한다.
+     * 모든 호출자가 같은 순서로 락을 획득하므로 데드락이 발생하지 않는다.
+     */
+    public List<Lock> getLocks(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .sorted()
+                .map(this::getLock)
+                .toList();
+    }
+}
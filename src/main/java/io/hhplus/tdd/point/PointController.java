@@ -60,4 +60,27 @@ public class PointController {
 
         return pointService.use(id, amount);
     }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 이체한다.
+     */
+    @PostMapping("transfer")
+    public UserPoint transfer(
+            @RequestBody TransferRequest request
+    ) {
+
+        return pointService.transfer(request);
+    }
+
+    /**
+     * 여러 이체를 한 번에 처리한다.
+     * 이체에 관련된 유저마다 최종 포인트를 유저 id 오름차순으로 반환한다. (요청 순서와 무관)
+     */
+    @PostMapping("transfer/batch")
+    public List<UserPoint> transferAll(
+            @RequestBody List<TransferRequest> requests
+    ) {
+
+        return pointService.transferAll(requests);
+    }
 }
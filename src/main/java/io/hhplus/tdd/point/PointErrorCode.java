@@ -11,6 +11,10 @@ public enum PointErrorCode {
     NON_POSITIVE_AMOUNT("E101", HttpStatus.BAD_REQUEST, "0이하의 값은 사용할 수 없습니다."),
     MAX_POINT_EXCEED("E102", HttpStatus.BAD_REQUEST, "최대 포인트가 초과되었습니다."),
     NOT_ENOUGH_POINT("E103", HttpStatus.BAD_REQUEST, "포인트가 부족합니다."),
+    SELF_TRANSFER("E104", HttpStatus.BAD_REQUEST, "자기 자신에게 포인트를 이체할 수 없습니다."),
+    VELOCITY_COUNT_EXCEED("E105", HttpStatus.TOO_MANY_REQUESTS, "허용된 요청 횟수를 초과했습니다."),
+    VELOCITY_AMOUNT_EXCEED("E106", HttpStatus.TOO_MANY_REQUESTS, "허용된 거래 금액을 초과했습니다."),
+    MISSING_TRANSFER_FIELD("E107", HttpStatus.BAD_REQUEST, "이체 요청의 from, to, amount 는 필수입니다."),
     ;
 
     private final String code;
@@ -0,0 +1,270 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 포인트 API 전용 HttpMessageConverter
+ * - 요청 : 충전/사용 금액(long) 본문을 Jackson 없이 직접 파싱한다. Jackson 과 같이 앞자리 0("007")은 허용하지 않는다.
+ * - 응답 : UserPoint, PointHistory, List&lt;PointHistory&gt; 를 스레드별로 재사용하는 버퍼에 직접 JSON 으로 기록한다.
+ * 그 외 타입(ErrorResponse 등)은 지원하지 않으므로 기존 Jackson 컨버터가 처리한다.
+ */
+public class PointHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final int MAX_AMOUNT_BODY_SIZE = 64;
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] POINT = ascii(",\"point\":");
+    private static final byte[] USER_ID = ascii(",\"userId\":");
+    private static final byte[] AMOUNT = ascii(",\"amount\":");
+    private static final byte[] TYPE = ascii(",\"type\":\"");
+    private static final byte[] TYPE_END_UPDATE_MILLIS = ascii("\",\"updateMillis\":");
+    private static final byte[] UPDATE_MILLIS = ascii(",\"updateMillis\":");
+    private static final byte[] LONG_MIN_VALUE = ascii(Long.toString(Long.MIN_VALUE));
+    private static final byte[][] TRANSACTION_TYPES = transactionTypeNames();
+
+    private final ThreadLocal<JsonBuffer> buffers = ThreadLocal.withInitial(JsonBuffer::new);
+
+    public PointHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isAmount(clazz) || isPointResponse(clazz);
+    }
+
+    /**
+     * 읽기는 금액(long), 쓰기는 UserPoint/PointHistory 만 지원하므로 방향별로 따로 검사한다.
+     */
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return isAmount(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return type instanceof Class<?> clazz && canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return isPointResponse(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return (isPointResponse(clazz) || isPointHistoryList(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readAmount(inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return readAmount(inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        JsonBuffer buffer = buffers.get();
+        buffer.reset();
+        try {
+            if (value instanceof UserPoint userPoint) {
+                writeUserPoint(buffer, userPoint);
+            } else if (value instanceof PointHistory pointHistory) {
+                writePointHistory(buffer, pointHistory);
+            } else {
+                writePointHistories(buffer, (List<?>) value);
+            }
+            outputMessage.getBody().write(buffer.bytes, 0, buffer.size);
+        } finally {
+            if (buffer.bytes.length > MAX_POOLED_BUFFER_SIZE) {
+                buffers.remove();
+            }
+        }
+    }
+
+    private long readAmount(HttpInputMessage inputMessage) throws IOException {
+        JsonBuffer buffer = buffers.get();
+        buffer.reset();
+
+        InputStream body = inputMessage.getBody();
+        byte[] bytes = buffer.bytes;
+        int size = 0;
+        int read;
+        while ((read = body.read(bytes, size, MAX_AMOUNT_BODY_SIZE - size)) > 0) {
+            size += read;
+            if (size == MAX_AMOUNT_BODY_SIZE && body.read() != -1) {
+                throw new HttpMessageNotReadableException("요청 본문이 너무 큽니다.", inputMessage);
+            }
+        }
+        return parseLong(bytes, size, inputMessage);
+    }
+
+    private static long parseLong(byte[] bytes, int size, HttpInputMessage inputMessage) {
+        int start = 0;
+        int end = size;
+        while (start < end && isWhitespace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        if (end - start >= 2 && bytes[start] == '"' && bytes[end - 1] == '"') {
+            start++;
+            end--;
+        }
+
+        boolean negative = start < end && bytes[start] == '-';
+        int position = negative ? start + 1 : start;
+        if (position == end || (bytes[position] == '0' && end - position > 1)) {
+            throw new HttpMessageNotReadableException("금액을 읽을 수 없습니다.", inputMessage);
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        for (; position < end; position++) {
+            int digit = bytes[position] - '0';
+            if (digit < 0 || digit > 9 || result < limit / 10 || result * 10 < limit + digit) {
+                throw new HttpMessageNotReadableException("금액을 읽을 수 없습니다.", inputMessage);
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static void writeUserPoint(JsonBuffer buffer, UserPoint userPoint) {
+        buffer.write(ID);
+        buffer.writeLong(userPoint.id());
+        buffer.write(POINT);
+        buffer.writeLong(userPoint.point());
+        buffer.write(UPDATE_MILLIS);
+        buffer.writeLong(userPoint.updateMillis());
+        buffer.write('}');
+    }
+
+    private static void writePointHistory(JsonBuffer buffer, PointHistory pointHistory) {
+        buffer.write(ID);
+        buffer.writeLong(pointHistory.id());
+        buffer.write(USER_ID);
+        buffer.writeLong(pointHistory.userId());
+        buffer.write(AMOUNT);
+        buffer.writeLong(pointHistory.amount());
+        buffer.write(TYPE);
+        buffer.write(TRANSACTION_TYPES[pointHistory.type().ordinal()]);
+        buffer.write(TYPE_END_UPDATE_MILLIS);
+        buffer.writeLong(pointHistory.updateMillis());
+        buffer.write('}');
+    }
+
+    private static void writePointHistories(JsonBuffer buffer, List<?> pointHistories) {
+        buffer.write('[');
+        for (int i = 0, size = pointHistories.size(); i < size; i++) {
+            if (i > 0) {
+                buffer.write(',');
+            }
+            writePointHistory(buffer, (PointHistory) pointHistories.get(i));
+        }
+        buffer.write(']');
+    }
+
+    private static boolean isAmount(Class<?> clazz) {
+        return clazz == long.class || clazz == Long.class;
+    }
+
+    private static boolean isPointResponse(Class<?> clazz) {
+        return clazz == UserPoint.class || clazz == PointHistory.class;
+    }
+
+    private static boolean isPointHistoryList(@Nullable Type type) {
+        return type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == List.class
+                && parameterizedType.getActualTypeArguments()[0] == PointHistory.class;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] transactionTypeNames() {
+        TransactionType[] types = TransactionType.values();
+        byte[][] names = new byte[types.length][];
+        for (TransactionType type : types) {
+            names[type.ordinal()] = ascii(type.name());
+        }
+        return names;
+    }
+
+    /**
+     * 스레드별로 재사용되는 JSON 출력 버퍼
+     */
+    private static final class JsonBuffer {
+
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        void write(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void write(byte[] src) {
+            ensureCapacity(src.length);
+            System.arraycopy(src, 0, bytes, size, src.length);
+            size += src.length;
+        }
+
+        void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                write(LONG_MIN_VALUE);
+                return;
+            }
+            ensureCapacity(20);
+            if (value < 0) {
+                bytes[size++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (long v = value; v >= 10; v /= 10) {
+                digits++;
+            }
+            int position = size + digits;
+            size = position;
+            do {
+                bytes[--position] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                byte[] grown = new byte[Math.max(bytes.length * 2, size + extra)];
+                System.arraycopy(bytes, 0, grown, 0, size);
+                bytes = grown;
+            }
+        }
+    }
+}
@@ -5,25 +5,41 @@ import io.hhplus.tdd.database.UserPointTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final long MAX_POINT = 100000L;
+
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
     private final LockManager lockManager;
+    private final PointSnapshotStore pointSnapshotStore;
+    private final PointVelocityLimiter pointVelocityLimiter;
 
+    /**
+     * 락 없이 마지막으로 커밋된 스냅샷을 조회한다.
+     */
     public UserPoint findUserPoint(Long id) {
 
-        return userPointTable.selectById(id);
+        return pointSnapshotStore.getUserPoint(id);
     }
 
+    /**
+     * 락 없이 마지막으로 커밋된 스냅샷을 조회한다.
+     */
     public List<PointHistory> findPointHistory(Long id) {
 
-        return pointHistoryTable.selectAllByUserId(id);
+        return pointSnapshotStore.getPointHistories(id);
     }
 
     public UserPoint charge(long id, long amount) {
@@ -39,13 +55,19 @@ public class PointService {
 
             long chargedPoint = userPoint.point() + amount;
 
-            if (chargedPoint > 100000L) {
+            if (chargedPoint > MAX_POINT) {
                 throw new PointException(PointErrorCode.MAX_POINT_EXCEED);
             }
 
-            pointHistoryTable.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            pointVelocityLimiter.check(id, TransactionType.CHARGE, 1, amount);
+
+            PointHistory pointHistory = pointHistoryTable.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            UserPoint chargedUserPoint = userPointTable.insertOrUpdate(id, chargedPoint);
+
+            pointVelocityLimiter.record(id, TransactionType.CHARGE, 1, amount);
+            pointSnapshotStore.publish(chargedUserPoint, Collections.singletonList(pointHistory));
 
-            return userPointTable.insertOrUpdate(id, chargedPoint);
+            return chargedUserPoint;
 
         } finally {
             lock.unlock();
@@ -68,13 +90,121 @@ public class PointService {
                 throw new PointException(PointErrorCode.NOT_ENOUGH_POINT);
             }
 
-            pointHistoryTable.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+            pointVelocityLimiter.check(id, TransactionType.USE, 1, amount);
+
+            PointHistory pointHistory = pointHistoryTable.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+            UserPoint usedUserPoint = userPointTable.insertOrUpdate(id, usedPoint);
+
+            pointVelocityLimiter.record(id, TransactionType.USE, 1, amount);
+            pointSnapshotStore.publish(usedUserPoint, Collections.singletonList(pointHistory));
 
-            return userPointTable.insertOrUpdate(id, usedPoint);
+            return usedUserPoint;
 
         } finally {
             lock.unlock();
         }
     }
 
+    public UserPoint transfer(long fromId, long toId, long amount) {
+
+        return transfer(new TransferRequest(fromId, toId, amount));
+    }
+
+    /**
+     * 이체 후 보내는 유저의 포인트를 반환한다.
+     * 요청 값의 누락은 executeTransfers 에서 검증한다.
+     */
+    public UserPoint transfer(TransferRequest transfer) {
+
+        return executeTransfers(Collections.singletonList(transfer)).get(transfer.from());
+    }
+
+    /**
+     * 여러 이체를 한 번의 락 획득으로 처리한다.
+     * 하나라도 검증에 실패하면 어떤 이체도 반영하지 않는다.
+     * 반환값은 이체별 결과가 아니라, 이체에 관련된 유저마다 최종 포인트 하나씩을 유저 id 오름차순으로 담은 목록이다.
+     */
+    public List<UserPoint> transferAll(List<TransferRequest> transfers) {
+
+        return new ArrayList<>(executeTransfers(transfers).values());
+    }
+
+    private Map<Long, UserPoint> executeTransfers(List<TransferRequest> transfers) {
+
+        Set<Long> userIds = new TreeSet<>();
+        for (TransferRequest transfer : transfers) {
+            if (transfer == null || transfer.from() == null || transfer.to() == null || transfer.amount() == null) {
+                throw new PointException(PointErrorCode.MISSING_TRANSFER_FIELD);
+            }
+            if (transfer.amount() <= 0) {
+                throw new PointException(PointErrorCode.NON_POSITIVE_AMOUNT);
+            }
+            if (transfer.from().equals(transfer.to())) {
+                throw new PointException(PointErrorCode.SELF_TRANSFER);
+            }
+            userIds.add(transfer.from());
+            userIds.add(transfer.to());
+        }
+
+        List<Lock> locks = lockManager.getLocks(userIds);
+        int locked = 0;
+        try {
+            for (Lock lock : locks) {
+                lock.lock();
+                locked++;
+            }
+
+            Map<Long, Long> points = new TreeMap<>();
+            for (Long userId : userIds) {
+                points.put(userId, userPointTable.selectById(userId).point());
+            }
+
+            for (TransferRequest transfer : transfers) {
+                long usedPoint = points.get(transfer.from()) - transfer.amount();
+                if (usedPoint < 0) {
+                    throw new PointException(PointErrorCode.NOT_ENOUGH_POINT);
+                }
+
+                long chargedPoint = points.get(transfer.to()) + transfer.amount();
+                if (chargedPoint > MAX_POINT) {
+                    throw new PointException(PointErrorCode.MAX_POINT_EXCEED);
+                }
+
+                points.put(transfer.from(), usedPoint);
+                points.put(transfer.to(), chargedPoint);
+            }
+
+            Map<Long, Long> sentCounts = new TreeMap<>();
+            Map<Long, Long> sentAmounts = new TreeMap<>();
+            for (TransferRequest transfer : transfers) {
+                sentCounts.merge(transfer.from(), 1L, Long::sum);
+                sentAmounts.merge(transfer.from(), transfer.amount(), Long::sum);
+            }
+            sentCounts.forEach((userId, count) ->
+                    pointVelocityLimiter.check(userId, TransactionType.USE, count, sentAmounts.get(userId)));
+            long updateMillis = System.currentTimeMillis();
+            Map<Long, List<PointHistory>> pointHistories = new TreeMap<>();
+            for (TransferRequest transfer : transfers) {
+                pointHistories.computeIfAbsent(transfer.from(), key -> new ArrayList<>())
+                        .add(pointHistoryTable.insert(transfer.from(), transfer.amount(), TransactionType.USE, updateMillis));
+                pointHistories.computeIfAbsent(transfer.to(), key -> new ArrayList<>())
+                        .add(pointHistoryTable.insert(transfer.to(), transfer.amount(), TransactionType.CHARGE, updateMillis));
+            }
+
+            Map<Long, UserPoint> userPoints = new TreeMap<>();
+            points.forEach((userId, point) -> userPoints.put(userId, userPointTable.insertOrUpdate(userId, point)));
+
+            sentCounts.forEach((userId, count) ->
+                    pointVelocityLimiter.record(userId, TransactionType.USE, count, sentAmounts.get(userId)));
+            userPoints.forEach((userId, userPoint) -> pointSnapshotStore.publish(userPoint, pointHistories.get(userId)));
+
+            return userPoints;
+
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 전용 스냅샷 저장소
+ * - 쓰기 작업은 유저 락을 잡은 상태에서 커밋이 끝난 뒤 publish 로 새 스냅샷을 게시한다.
+ * - 조회는 락 없이 게시된 스냅샷만 읽으므로 쓰기와 경합하지 않고, 항상 한 시점의 잔고와 내역을 함께 본다.
+ * 모든 쓰기는 PointService 를 거치므로 Table 을 직접 조회하지 않아도 스냅샷이 최신 커밋 상태와 같다.
+ */
+@Component
+public class PointSnapshotStore {
+
+    private final Map<Long, UserSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public UserPoint getUserPoint(long userId) {
+        UserSnapshot snapshot = snapshots.get(userId);
+        return snapshot == null ? UserPoint.empty(userId) : snapshot.userPoint();
+    }
+
+    public List<PointHistory> getPointHistories(long userId) {
+        UserSnapshot snapshot = snapshots.get(userId);
+        return snapshot == null ? List.of() : snapshot.histories();
+    }
+
+    /**
+     * 해당 유저의 락을 잡은 상태에서만 호출해야 한다.
+     */
+    public void publish(UserPoint userPoint, List<PointHistory> appended) {
+        UserSnapshot previous = snapshots.get(userPoint.id());
+        HistoryList histories = previous == null ? HistoryList.EMPTY : previous.histories();
+        snapshots.put(userPoint.id(), new UserSnapshot(userPoint, histories.append(appended)));
+    }
+
+    private record UserSnapshot(
+            UserPoint userPoint,
+            HistoryList histories
+    ) {
+    }
+
+    /**
+     * 배열을 공유하는 불변 내역 리스트
+     * 각 스냅샷은 자신의 size 까지만 읽고, 새 내역은 뒤쪽 빈 칸에 기록되므로 기존 스냅샷은 변하지 않는다.
+     * 빈 칸이 없거나 이미 다른 버전이 사용한 경우에만 배열을 복사한다.
+     */
+    private static final class HistoryList extends AbstractList<PointHistory> implements RandomAccess {
+
+        private static final HistoryList EMPTY = new HistoryList(new PointHistory[0], 0);
+
+        private final PointHistory[] elements;
+        private final int size;
+
+        private HistoryList(PointHistory[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        HistoryList append(List<PointHistory> appended) {
+            int newSize = size + appended.size();
+            PointHistory[] target = elements;
+            if (newSize > target.length || (size < target.length && target[size] != null)) {
+                target = new PointHistory[Math.max(newSize, Math.max(8, size * 2))];
+                System.arraycopy(elements, 0, target, 0, size);
+            }
+            for (int i = 0; i < appended.size(); i++) {
+                target[size + i] = appended.get(i);
+            }
+            return new HistoryList(target, newSize);
+        }
+
+        @Override
+        public PointHistory get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
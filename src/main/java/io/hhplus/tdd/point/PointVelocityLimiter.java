@@ -0,0 +1,195 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 유저별 거래 빈도/금액 제한
+ * 규칙마다 윈도우를 BUCKETS 개의 구간(올림)으로 나누고, 진행 중인 구간과 그 이전 BUCKETS 개 구간을
+ * 링 버퍼로 보관하므로 검사 비용은 내역 수와 무관하게 O(1) 이다.
+ * 구간은 끝난 지 window 이상 지난 뒤에만 비워지므로 한도보다 적게 세지 않고,
+ * 대신 값이 최대 한 구간만큼 더 오래 남을 수 있다.
+ *
+ * 유저별 상태 배열 구성
+ * - [0] : 마지막 기록 시각
+ * - 규칙마다 [현재 구간 번호, 윈도우 합계, 구간 값 * RING]
+ */
+@Component
+public class PointVelocityLimiter {
+
+    private static final int BUCKETS = 60;
+    private static final int RING = BUCKETS + 1;
+    private static final int RULE_SLOTS = RING + 2;
+    private static final long MAX_SWEEP_PERIOD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final VelocityProperties.Rule[] rules;
+    private final long[] bucketMillis;
+    private final Set<TransactionType> types = EnumSet.noneOf(TransactionType.class);
+    private final long idleMillis;
+    private final LongSupplier clock;
+    private final Map<Long, long[]> counters = new ConcurrentHashMap<>();
+    private ScheduledExecutorService evictor;
+
+    @Autowired
+    public PointVelocityLimiter(VelocityProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    PointVelocityLimiter(VelocityProperties properties, LongSupplier clock) {
+        this.rules = properties.enabled()
+                ? properties.rules().toArray(VelocityProperties.Rule[]::new)
+                : new VelocityProperties.Rule[0];
+        this.bucketMillis = new long[rules.length];
+        this.clock = clock;
+
+        long idleMillis = properties.idleEviction().toMillis();
+        for (int i = 0; i < rules.length; i++) {
+            bucketMillis[i] = Math.max(1, (rules[i].window().toMillis() + BUCKETS - 1) / BUCKETS);
+            types.add(rules[i].type());
+            idleMillis = Math.max(idleMillis, RING * bucketMillis[i]);
+        }
+        this.idleMillis = idleMillis;
+    }
+
+    @PostConstruct
+    void startEviction() {
+        if (rules.length == 0) {
+            return;
+        }
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-velocity-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepPeriodMillis = sweepPeriodMillis();
+        evictor.scheduleWithFixedDelay(this::evictIdle, sweepPeriodMillis, sweepPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopEviction() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+    }
+
+    /**
+     * count 건, 합계 amount 의 거래에 적용되는 모든 규칙을 기록하지 않고 검사만 한다.
+     * 검사 → 쓰기 → record 순서로 호출하여 쓰기가 실패하면 한도가 소모되지 않도록 하며,
+     * 검사부터 record 까지 해당 유저의 락을 잡고 있어야 한다.
+     */
+    public void check(long userId, TransactionType type, long count, long amount) {
+        if (!types.contains(type)) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        counters.compute(userId, (key, current) -> {
+            verify(current == null ? newSlots() : current, type, count, amount, now);
+            return current;
+        });
+    }
+
+    /**
+     * check 를 통과하고 쓰기가 완료된 거래를 기록한다.
+     */
+    public void record(long userId, TransactionType type, long count, long amount) {
+        if (!types.contains(type)) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        counters.compute(userId, (key, current) -> {
+            long[] slots = current == null ? newSlots() : current;
+            add(slots, type, count, amount, now);
+            return slots;
+        });
+    }
+
+    /**
+     * 마지막 기록 이후 모든 윈도우가 지난 유저의 상태를 제거한다.
+     */
+    void evictIdle() {
+        long threshold = clock.getAsLong() - idleMillis;
+        counters.forEach((userId, slots) ->
+                counters.computeIfPresent(userId, (key, current) -> current[0] < threshold ? null : current));
+    }
+
+    /**
+     * idleMillis 는 제거 기준일 뿐이고, 유휴 상태가 최대 idleMillis + 1분만 남도록 짧은 주기로 검사한다.
+     */
+    long sweepPeriodMillis() {
+        return Math.min(idleMillis, MAX_SWEEP_PERIOD_MILLIS);
+    }
+
+    int trackedUsers() {
+        return counters.size();
+    }
+
+    private long[] newSlots() {
+        return new long[1 + rules.length * RULE_SLOTS];
+    }
+
+    private void verify(long[] slots, TransactionType type, long count, long amount, long now) {
+        for (int i = 0; i < rules.length; i++) {
+            VelocityProperties.Rule rule = rules[i];
+            if (rule.type() != type) {
+                continue;
+            }
+            int base = 1 + i * RULE_SLOTS;
+            advance(slots, base, now / bucketMillis[i]);
+            if (slots[base + 1] + weight(rule, count, amount) > rule.limit()) {
+                throw new PointException(rule.metric() == VelocityProperties.Metric.COUNT
+                        ? PointErrorCode.VELOCITY_COUNT_EXCEED
+                        : PointErrorCode.VELOCITY_AMOUNT_EXCEED);
+            }
+        }
+    }
+
+    private void add(long[] slots, TransactionType type, long count, long amount, long now) {
+        for (int i = 0; i < rules.length; i++) {
+            VelocityProperties.Rule rule = rules[i];
+            if (rule.type() != type) {
+                continue;
+            }
+            int base = 1 + i * RULE_SLOTS;
+            advance(slots, base, now / bucketMillis[i]);
+            long value = weight(rule, count, amount);
+            slots[base + 1] += value;
+            slots[base + 2 + (int) (slots[base] % RING)] += value;
+        }
+        slots[0] = now;
+    }
+
+    /**
+     * 현재 구간까지 링 버퍼를 이동시키며 bucket - BUCKETS 보다 이전 구간의 값을 합계에서 뺀다.
+     * 해당 구간의 마지막 시각은 now - BUCKETS * bucketMillis 보다 이전이므로 window 이상 지난 값만 빠진다.
+     */
+    private static void advance(long[] slots, int base, long bucket) {
+        long last = slots[base];
+        if (bucket <= last) {
+            return;
+        }
+        long end = Math.min(bucket, last + RING);
+        for (long next = last + 1; next <= end; next++) {
+            int index = base + 2 + (int) (next % RING);
+            slots[base + 1] -= slots[index];
+            slots[index] = 0;
+        }
+        slots[base] = bucket;
+    }
+
+    private static long weight(VelocityProperties.Rule rule, long count, long amount) {
+        return rule.metric() == VelocityProperties.Metric.COUNT ? count : amount;
+    }
+}
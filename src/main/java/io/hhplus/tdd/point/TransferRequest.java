@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point;
+
+public record TransferRequest(
+        Long from,
+        Long to,
+        Long amount
+) {
+}
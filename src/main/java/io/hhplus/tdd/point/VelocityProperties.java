@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 유저별 거래 빈도/금액 제한 규칙 (point.velocity)
+ * - type   : 적용할 트랜잭션 종류 (CHARGE, USE), USE 규칙은 이체를 보내는 유저에도 적용된다.
+ * - metric : COUNT 는 요청 횟수, AMOUNT 는 금액 합계
+ * - limit  : window 동안 허용되는 최대값
+ * - window : 슬라이딩 윈도우 크기 (예: 1m, 1d)
+ */
+@ConfigurationProperties(prefix = "point.velocity")
+public record VelocityProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1d") Duration idleEviction,
+        List<Rule> rules
+) {
+
+    public VelocityProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    public record Rule(
+            TransactionType type,
+            Metric metric,
+            long limit,
+            Duration window
+    ) {
+
+        public Rule {
+            if (type == null) {
+                throw new IllegalArgumentException("point.velocity.rules[].type 은 필수입니다. (CHARGE, USE)");
+            }
+            if (metric == null) {
+                throw new IllegalArgumentException("point.velocity.rules[].metric 은 필수입니다. (COUNT, AMOUNT)");
+            }
+            if (limit <= 0) {
+                throw new IllegalArgumentException("point.velocity.rules[].limit 은 0보다 커야 합니다: " + limit);
+            }
+            if (window == null || window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("point.velocity.rules[].window 는 0보다 커야 합니다: " + window);
+            }
+        }
+    }
+
+    public enum Metric {
+        COUNT, AMOUNT
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Pload.&lt;name&gt;=&lt;value&gt; 로 전달)
+ * - rate        : 초당 요청 수 (open-loop, 응답과 무관하게 일정한 간격으로 요청)
+ * - duration    : 측정 시간 (예: 30s, 2m)
+ * - users       : 유저 수
+ * - zipf        : 유저 선택 Zipf 지수 (0 이면 균등 분포)
+ * - mix         : 요청 비율 (예: charge:30,use:20,transfer:5,point:35,histories:10)
+ * - maxInFlight : 동시 진행 요청 상한, 초과 시 요청을 보내지 않고 dropped 로 기록
+ * - velocity    : 거래 빈도/금액 제한(point.velocity.enabled) 사용 여부, 기본값은 application.yml 과 같은 true
+ */
+record LoadTestConfig(
+        int rate,
+        Duration duration,
+        int users,
+        double zipf,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        boolean velocity,
+        Path reportDir
+) {
+
+    LoadTestConfig {
+        require(rate > 0 && rate <= 1_000_000_000, "rate must be between 1 and 1000000000: " + rate);
+        require(!duration.isNegative() && !duration.isZero(), "duration must be positive: " + duration);
+        require(users > 0, "users must be positive: " + users);
+        require(zipf >= 0, "zipf must not be negative: " + zipf);
+        require(maxInFlight > 0, "maxInFlight must be positive: " + maxInFlight);
+        require(mix.values().stream().allMatch(weight -> weight >= 0), "mix weights must not be negative: " + mix);
+        require(mix.values().stream().mapToInt(Integer::intValue).sum() > 0, "mix must have a positive weight: " + mix);
+        require(users >= 2 || mix.getOrDefault(Operation.TRANSFER, 0) == 0, "transfer requires at least 2 users");
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.parseInt(property("rate", "200")),
+                parseDuration(property("duration", "30s")),
+                Integer.parseInt(property("users", "1000")),
+                Double.parseDouble(property("zipf", "1.1")),
+                parseMix(property("mix", "charge:30,use:20,transfer:5,point:35,histories:10")),
+                Integer.parseInt(property("maxInFlight", "5000")),
+                Boolean.parseBoolean(property("velocity", "true")),
+                Path.of(property("reportDir", "build/reports/loadtest"))
+        );
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("load." + name, defaultValue);
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase(Locale.ROOT));
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
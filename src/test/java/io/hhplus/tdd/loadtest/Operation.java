@@ -0,0 +1,26 @@
+package io.hhplus.tdd.loadtest;
+
+/**
+ * 부하 테스트 요청 종류
+ */
+enum Operation {
+    CHARGE("PATCH /point/{id}/charge"),
+    USE("PATCH /point/{id}/use"),
+    TRANSFER("POST /point/transfer"),
+    POINT("GET /point/{id}"),
+    HISTORIES("GET /point/{id}/histories");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    boolean isWrite() {
+        return this == CHARGE || this == USE || this == TRANSFER;
+    }
+}
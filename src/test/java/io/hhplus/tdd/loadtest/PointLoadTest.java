@@ -0,0 +1,350 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP API 부하 테스트
+ * - 애플리케이션을 랜덤 포트로 띄우고 open-loop 방식으로 요청한다.
+ * - 지연 시간은 예정된 요청 시각부터 응답까지 측정하여 coordinated omission 을 피한다.
+ * - 종료 후 서버가 모든 요청 처리를 마칠 때까지 기다린 뒤 잔고 범위(0 ~ 100000)와 유저별 내역 수를 검증한다.
+ *   타임아웃/연결 오류로 끝난 쓰기는 서버에 반영됐는지 알 수 없으므로 unknown 으로 세고,
+ *   성공 수 &lt;= 내역 수 &lt;= 성공 수 + unknown 수 를 만족하는지 확인한다.
+ *   5xx 로 끝난 쓰기는 서버 오류이므로 불변식 위반으로 기록한다.
+ * - -Pload.velocity=false 로 거래 빈도/금액 제한을 끄고 실행할 수 있다.
+ * - 결과는 build/reports/loadtest/report.json 에 기록한다.
+ * ./gradlew loadTest -Pload.rate=5000 -Pload.duration=60s 로 실행한다.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PointLoadTest {
+
+    private static final long MAX_POINT = 100000L;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration QUIET_PERIOD = Duration.ofSeconds(2);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ServletWebServerApplicationContext applicationContext;
+
+    @DynamicPropertySource
+    static void velocityProperties(DynamicPropertyRegistry registry) {
+        registry.add("point.velocity.enabled", () -> LoadTestConfig.fromSystemProperties().velocity());
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Map<Long, LongAdder> successfulWrites = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> unknownWrites = new ConcurrentHashMap<>();
+    private final LongAdder serverErrorWrites = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    @Test
+    @DisplayName("부하 테스트 - 지연 시간 및 불변식 리포트")
+    void loadTest() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+
+        Instant startedAt = Instant.now();
+        runOpenLoop(config);
+        Instant finishedAt = Instant.now();
+
+        List<String> violations = new ArrayList<>();
+        drain(violations);
+        awaitServerIdle(violations);
+        checkInvariants(violations);
+        Path report = writeReport(config, startedAt, finishedAt, violations);
+
+        System.out.println("[loadtest] report: " + report);
+        assertThat(violations).isEmpty();
+    }
+
+    private void runOpenLoop(LoadTestConfig config) {
+        ZipfGenerator users = new ZipfGenerator(config.users(), config.zipf());
+        Operation[] weighted = weightedOperations(config.mix());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long total = config.duration().toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+            if (inFlight.get() >= config.maxInFlight()) {
+                dropped.increment();
+                continue;
+            }
+            send(operation, users, intendedStart);
+        }
+    }
+
+    private void send(Operation operation, ZipfGenerator users, long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = users.next();
+        long targetId = userId;
+        while (operation == Operation.TRANSFER && targetId == userId) {
+            targetId = users.next();
+        }
+        long amount = random.nextLong(1, 1001);
+        long receiverId = targetId;
+
+        HttpRequest request = switch (operation) {
+            case CHARGE -> patch("/point/" + userId + "/charge", Long.toString(amount));
+            case USE -> patch("/point/" + userId + "/use", Long.toString(amount));
+            case TRANSFER -> post("/point/transfer",
+                    "{\"from\":" + userId + ",\"to\":" + receiverId + ",\"amount\":" + amount + "}");
+            case POINT -> get("/point/" + userId);
+            case HISTORIES -> get("/point/" + userId + "/histories");
+        };
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                    EndpointStats endpointStats = stats.get(operation);
+                    endpointStats.latency.recordValue(latencyMicros);
+
+                    if (throwable != null) {
+                        endpointStats.errors.increment();
+                    } else {
+                        endpointStats.statuses.computeIfAbsent(response.statusCode(), key -> new LongAdder()).increment();
+                    }
+
+                    if (operation.isWrite()) {
+                        Map<Long, LongAdder> writes = null;
+                        if (throwable != null) {
+                            writes = unknownWrites;
+                        } else if (response.statusCode() / 100 == 5) {
+                            serverErrorWrites.increment();
+                        } else if (response.statusCode() / 100 == 2) {
+                            writes = successfulWrites;
+                        }
+                        if (writes != null) {
+                            writes.computeIfAbsent(userId, key -> new LongAdder()).increment();
+                            if (operation == Operation.TRANSFER) {
+                                writes.computeIfAbsent(receiverId, key -> new LongAdder()).increment();
+                            }
+                        }
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    /**
+     * 클라이언트 쪽 요청이 모두 끝날 때까지 기다린다.
+     */
+    private void drain(List<String> violations) throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        if (inFlight.get() > 0) {
+            violations.add(inFlight.get() + " requests did not complete within " + DRAIN_TIMEOUT);
+        }
+    }
+
+    /**
+     * 클라이언트가 타임아웃으로 포기한 요청도 서버에서는 계속 처리되므로,
+     * Tomcat 요청 스레드가 QUIET_PERIOD 동안 연속으로 비어 있을 때까지 기다린다.
+     */
+    private void awaitServerIdle(List<String> violations) throws InterruptedException {
+        Executor executor = ((TomcatWebServer) applicationContext.getWebServer())
+                .getTomcat().getConnector().getProtocolHandler().getExecutor();
+        if (!(executor instanceof ThreadPoolExecutor threadPool)) {
+            violations.add("cannot observe server request threads: " + executor);
+            return;
+        }
+
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        long idleSince = System.nanoTime();
+        while (System.nanoTime() - idleSince < QUIET_PERIOD.toNanos()) {
+            if (System.nanoTime() > deadline) {
+                violations.add("server did not become idle within " + DRAIN_TIMEOUT);
+                return;
+            }
+            if (threadPool.getActiveCount() > 0 || !threadPool.getQueue().isEmpty()) {
+                idleSince = System.nanoTime();
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    private void checkInvariants(List<String> violations) throws IOException, InterruptedException {
+        if (serverErrorWrites.sum() > 0) {
+            violations.add(serverErrorWrites.sum() + " write requests failed with 5xx");
+        }
+
+        Set<Long> userIds = new TreeSet<>(successfulWrites.keySet());
+        userIds.addAll(unknownWrites.keySet());
+
+        for (long userId : userIds) {
+            long point = readJson("/point/" + userId).get("point").asLong();
+            int historyCount = readJson("/point/" + userId + "/histories").size();
+            long success = count(successfulWrites, userId);
+            long unknown = count(unknownWrites, userId);
+
+            if (point < 0 || point > MAX_POINT) {
+                violations.add("user " + userId + " balance out of range: " + point);
+            }
+            if (historyCount < success || historyCount > success + unknown) {
+                violations.add("user " + userId + " history count " + historyCount
+                        + " outside [" + success + ", " + (success + unknown) + "]"
+                        + " (successful writes " + success + ", unknown writes " + unknown + ")");
+            }
+        }
+    }
+
+    private Path writeReport(LoadTestConfig config, Instant startedAt, Instant finishedAt, List<String> violations) throws IOException {
+        Map<String, Object> configReport = new LinkedHashMap<>();
+        configReport.put("rate", config.rate());
+        configReport.put("durationSeconds", config.duration().toSeconds());
+        configReport.put("users", config.users());
+        configReport.put("zipf", config.zipf());
+        configReport.put("mix", config.mix());
+        configReport.put("maxInFlight", config.maxInFlight());
+        configReport.put("velocity", config.velocity());
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((operation, endpointStats) -> endpoints.put(operation.endpoint(), endpointStats.toReport(config.duration())));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("finishedAt", finishedAt.toString());
+        report.put("config", configReport);
+        report.put("dropped", dropped.sum());
+        report.put("endpoints", endpoints);
+        Set<Long> checkedUsers = new TreeSet<>(successfulWrites.keySet());
+        checkedUsers.addAll(unknownWrites.keySet());
+        report.put("invariants", Map.of(
+                "passed", violations.isEmpty(),
+                "checkedUsers", checkedUsers.size(),
+                "unknownWrites", unknownWrites.values().stream().mapToLong(LongAdder::sum).sum(),
+                "serverErrorWrites", serverErrorWrites.sum(),
+                "violations", violations
+        ));
+
+        Files.createDirectories(config.reportDir());
+        Path path = config.reportDir().resolve("report.json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+        return path;
+    }
+
+    private static long count(Map<Long, LongAdder> writes, long userId) {
+        LongAdder adder = writes.get(userId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private JsonNode readJson(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(get(path), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest patch(String path, String body) {
+        return request(path).method("PATCH", HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return request(path).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        return operations.toArray(Operation[]::new);
+    }
+
+    private static final class EndpointStats {
+
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        Map<String, Object> toReport(Duration duration) {
+            Map<String, Long> statusReport = new LinkedHashMap<>();
+            statuses.forEach((status, count) -> statusReport.put(String.valueOf(status), count.sum()));
+
+            Map<String, Object> latencyReport = new LinkedHashMap<>();
+            latencyReport.put("p50", latency.getValueAtPercentile(50));
+            latencyReport.put("p90", latency.getValueAtPercentile(90));
+            latencyReport.put("p99", latency.getValueAtPercentile(99));
+            latencyReport.put("p999", latency.getValueAtPercentile(99.9));
+            latencyReport.put("max", latency.getMaxValue());
+            latencyReport.put("mean", latency.getMean());
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("count", latency.getTotalCount());
+            report.put("throughputPerSecond", latency.getTotalCount() / (duration.toMillis() / 1000.0));
+            report.put("statuses", statusReport);
+            report.put("errors", errors.sum());
+            report.put("latencyMicros", latencyReport);
+            return report;
+        }
+    }
+}
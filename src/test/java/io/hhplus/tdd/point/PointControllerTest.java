@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "point.velocity.enabled=false")
+@AutoConfigureMockMvc
+class PointControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    PointService pointService;
+
+    @ParameterizedTest
+    @DisplayName("[FAIL] 이체 요청에 from, to, amount 가 누락되면 400 응답 및 미반영")
+    @ValueSource(strings = {
+            "{\"from\":1,\"amount\":100}",
+            "{\"to\":2,\"amount\":100}",
+            "{\"from\":1,\"to\":2}"
+    })
+    void missingFieldTransferTest(String body) throws Exception {
+
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(PointErrorCode.MISSING_TRANSFER_FIELD.getCode()));
+
+        assertThat(pointService.findPointHistory(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[SUCCESS] 일괄 이체는 관련 유저별 최종 포인트를 유저 id 오름차순으로 반환")
+    void transferAllResponseOrderTest() throws Exception {
+        pointService.charge(30L, 1000L);
+
+        mockMvc.perform(post("/point/transfer/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"from\":30,\"to\":20,\"amount\":300},{\"from\":20,\"to\":10,\"amount\":100}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(jsonPath("$[0].point").value(100))
+                .andExpect(jsonPath("$[1].id").value(20))
+                .andExpect(jsonPath("$[1].point").value(200))
+                .andExpect(jsonPath("$[2].id").value(30))
+                .andExpect(jsonPath("$[2].point").value(700));
+    }
+
+    @Test
+    @DisplayName("[FAIL] 일괄 이체 중 하나라도 값이 누락되면 400 응답")
+    void missingFieldTransferAllTest() throws Exception {
+
+        mockMvc.perform(post("/point/transfer/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"from\":1,\"to\":2,\"amount\":100},{\"from\":2,\"amount\":100}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(PointErrorCode.MISSING_TRANSFER_FIELD.getCode()));
+    }
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 충전/사용 요청 1건당 메시지 변환 할당량(byte) 비교
+ * - before : MappingJackson2HttpMessageConverter
+ * - after  : PointHttpMessageConverter
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class PointHttpMessageConverterBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final UserPoint userPoint = new UserPoint(1L, 12345L, System.currentTimeMillis());
+    private final ReusableInputMessage inputMessage = new ReusableInputMessage("12345".getBytes(StandardCharsets.UTF_8));
+    private final DiscardingOutputMessage outputMessage = new DiscardingOutputMessage();
+
+    @Test
+    @DisplayName("요청당 할당량 - Jackson vs PointHttpMessageConverter")
+    void allocationPerRequestBenchmark() throws Exception {
+        double before = bytesPerRequest(new MappingJackson2HttpMessageConverter());
+        double after = bytesPerRequest(new PointHttpMessageConverter());
+
+        System.out.printf("[benchmark] allocation per request - jackson: %.1f B/op, point: %.1f B/op%n", before, after);
+
+        assertThat(after).isLessThan(before);
+    }
+
+    @SuppressWarnings("unchecked")
+    private double bytesPerRequest(GenericHttpMessageConverter<?> converter) throws Exception {
+        GenericHttpMessageConverter<Object> target = (GenericHttpMessageConverter<Object>) converter;
+        for (int i = 0; i < WARMUP; i++) {
+            request(target);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            request(target);
+        }
+        return (double) (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+
+    private void request(GenericHttpMessageConverter<Object> converter) throws Exception {
+        inputMessage.reset();
+        converter.read(long.class, null, inputMessage);
+        converter.write(userPoint, UserPoint.class, MediaType.APPLICATION_JSON, outputMessage);
+    }
+
+    private static final class ReusableInputMessage implements HttpInputMessage {
+
+        private final ByteArrayInputStream body;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        ReusableInputMessage(byte[] body) {
+            this.body = new ByteArrayInputStream(body);
+            this.headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        void reset() {
+            body.reset();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final OutputStream body = OutputStream.nullOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointHttpMessageConverterTest {
+
+    private static final Type POINT_HISTORY_LIST = new ParameterizedTypeReference<List<PointHistory>>() {
+    }.getType();
+
+    private final PointHttpMessageConverter converter = new PointHttpMessageConverter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("금액 요청 본문 파싱")
+    class readAmount {
+
+        @ParameterizedTest
+        @DisplayName("[SUCCESS] 숫자 본문을 long 으로 파싱")
+        @ValueSource(strings = {"1000", " 1000\n", "\"1000\"", "-1000", "0", "9223372036854775807", "-9223372036854775808"})
+        void readAmountTest(String body) throws IOException {
+            // when
+            Object amount = converter.read(long.class, null, new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8)));
+
+            // then
+            assertThat(amount).isEqualTo(objectMapper.readValue(body, long.class));
+        }
+
+        @ParameterizedTest
+        @DisplayName("[FAIL] 숫자가 아니거나 범위를 벗어나거나 앞자리가 0인 본문은 HttpMessageNotReadableException 발생")
+        @ValueSource(strings = {"", "-", "abc", "10a", "1.5", "null", "9223372036854775808", "-9223372036854775809", "007", "-007", "00"})
+        void invalidAmountTest(String body) {
+            // when + then
+            assertThatThrownBy(() -> converter.read(long.class, null, new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8))))
+                    .isInstanceOf(HttpMessageNotReadableException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 JSON 작성")
+    class write {
+
+        @Test
+        @DisplayName("[SUCCESS] UserPoint 를 Jackson 과 동일한 JSON 으로 작성")
+        void writeUserPointTest() throws IOException {
+            // given
+            UserPoint userPoint = new UserPoint(1L, 100000L, System.currentTimeMillis());
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+            // when
+            converter.write(userPoint, UserPoint.class, MediaType.APPLICATION_JSON, outputMessage);
+
+            // then
+            assertThat(outputMessage.getBodyAsString()).isEqualTo(objectMapper.writeValueAsString(userPoint));
+            assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        }
+
+        @Test
+        @DisplayName("[SUCCESS] List<PointHistory> 를 Jackson 과 동일한 JSON 으로 작성")
+        void writePointHistoriesTest() throws IOException {
+            // given
+            List<PointHistory> pointHistories = List.of(
+                    new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, System.currentTimeMillis()),
+                    new PointHistory(2L, 1L, 500L, TransactionType.USE, System.currentTimeMillis())
+            );
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+            // when
+            converter.write(pointHistories, POINT_HISTORY_LIST, MediaType.APPLICATION_JSON, outputMessage);
+
+            // then
+            assertThat(outputMessage.getBodyAsString()).isEqualTo(objectMapper.writeValueAsString(pointHistories));
+        }
+
+        @Test
+        @DisplayName("[SUCCESS] 포인트 외 타입은 지원하지 않음")
+        void unsupportedTypeTest() {
+            // when + then
+            assertThat(converter.canWrite(String.class, String.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canRead(UserPoint.class, null, MediaType.APPLICATION_JSON)).isFalse();
+        }
+
+        @Test
+        @DisplayName("[SUCCESS] 제네릭이 아닌 canRead/canWrite 도 방향별로 검사")
+        void nonGenericDirectionTest() {
+            // when + then
+            assertThat(converter.canRead(long.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canRead(Long.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canRead(UserPoint.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canRead(PointHistory.class, MediaType.APPLICATION_JSON)).isFalse();
+
+            assertThat(converter.canWrite(UserPoint.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canWrite(PointHistory.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canWrite(Long.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canWrite(long.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canWrite(List.class, MediaType.APPLICATION_JSON)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 95% / 충전 5% 처리량 비교
+ * - locked   : 유저 락을 잡고 메모리 상태를 읽는 경로 (Table 의 인위적인 지연 없음)
+ * - snapshot : PointService 스냅샷 조회 경로 (락 없음)
+ * - table    : 기존 조회 경로 (UserPointTable + PointHistoryTable 직접 조회)
+ *              Table 의 조회 지연이 포함되므로 처리량은 비교하지 않고 실패/불일치 조회 수만 보고한다.
+ * 충전 금액은 항상 1 이므로 한 시점의 상태라면 잔고와 CHARGE 내역 합계가 같아야 한다. 다르면 inconsistent 로 센다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class PointReadBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int USERS = 100;
+    private static final int READ_PERCENT = 95;
+    private static final long DURATION_MILLIS = 5_000L;
+
+    @Test
+    @DisplayName("95/5 읽기 위주 처리량 - locked vs snapshot, 기존 table 경로의 실패/불일치 조회")
+    void readHeavyThroughputBenchmark() throws InterruptedException {
+        Result locked = run(Mode.LOCKED);
+        Result snapshot = run(Mode.SNAPSHOT);
+        Result table = run(Mode.TABLE);
+
+        print(Mode.LOCKED, locked);
+        print(Mode.SNAPSHOT, snapshot);
+        print(Mode.TABLE, table);
+
+        assertThat(snapshot.failedReads()).isZero();
+        assertThat(snapshot.inconsistentReads()).isZero();
+        assertThat(snapshot.readsPerSecond()).isGreaterThan(locked.readsPerSecond());
+    }
+
+    private Result run(Mode mode) throws InterruptedException {
+        UserPointTable userPointTable = new UserPointTable();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        LockManager lockManager = new LockManager();
+        PointSnapshotStore pointSnapshotStore = new PointSnapshotStore();
+        PointService pointService = new PointService(userPointTable, pointHistoryTable, lockManager, pointSnapshotStore,
+                new PointVelocityLimiter(new VelocityProperties(false, Duration.ofDays(1), List.of())));
+
+        LongAdder reads = new LongAdder();
+        LongAdder writes = new LongAdder();
+        LongAdder failedReads = new LongAdder();
+        LongAdder inconsistentReads = new LongAdder();
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executorService.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (System.currentTimeMillis() < deadline) {
+                        long userId = random.nextInt(USERS) + 1;
+                        if (random.nextInt(100) < READ_PERCENT) {
+                            try {
+                                UserPoint userPoint;
+                                List<PointHistory> pointHistories;
+                                switch (mode) {
+                                    case LOCKED -> {
+                                        Lock lock = lockManager.getLock(userId);
+                                        lock.lock();
+                                        try {
+                                            userPoint = pointSnapshotStore.getUserPoint(userId);
+                                            pointHistories = pointSnapshotStore.getPointHistories(userId);
+                                        } finally {
+                                            lock.unlock();
+                                        }
+                                    }
+                                    case SNAPSHOT -> {
+                                        userPoint = pointService.findUserPoint(userId);
+                                        pointHistories = pointService.findPointHistory(userId);
+                                    }
+                                    default -> {
+                                        userPoint = userPointTable.selectById(userId);
+                                        pointHistories = pointHistoryTable.selectAllByUserId(userId);
+                                    }
+                                }
+                                reads.increment();
+                                if (userPoint.point() != chargedSum(pointHistories)) {
+                                    inconsistentReads.increment();
+                                }
+                            } catch (RuntimeException e) {
+                                failedReads.increment();
+                            }
+                        } else {
+                            try {
+                                pointService.charge(userId, 1L);
+                                writes.increment();
+                            } catch (PointException ignored) {
+
+                            }
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+
+        double seconds = DURATION_MILLIS / 1000.0;
+        return new Result(reads.sum() / seconds, writes.sum() / seconds, failedReads.sum(), inconsistentReads.sum());
+    }
+
+    private static long chargedSum(List<PointHistory> pointHistories) {
+        long sum = 0;
+        for (PointHistory pointHistory : pointHistories) {
+            if (pointHistory.type() == TransactionType.CHARGE) {
+                sum += pointHistory.amount();
+            }
+        }
+        return sum;
+    }
+
+    private static void print(Mode mode, Result result) {
+        System.out.printf("[benchmark] %-8s - reads: %.1f/s, writes: %.1f/s, failed reads: %d, inconsistent reads: %d%n",
+                mode.name().toLowerCase(), result.readsPerSecond(), result.writesPerSecond(),
+                result.failedReads(), result.inconsistentReads());
+    }
+
+    private enum Mode {
+        LOCKED, SNAPSHOT, TABLE
+    }
+
+    private record Result(
+            double readsPerSecond,
+            double writesPerSecond,
+            long failedReads,
+            long inconsistentReads
+    ) {
+    }
+}
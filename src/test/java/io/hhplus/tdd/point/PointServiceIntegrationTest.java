@@ -9,10 +9,11 @@ import org.springframework.test.annotation.DirtiesContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = "point.velocity.enabled=false")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
 class PointServiceIntegrationTest {
 
@@ -154,4 +155,29 @@ class PointServiceIntegrationTest {
         assertThat(userPoint3.point()).isEqualTo(100);
         assertThat(pointHistoryList3.size()).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("서로에게 동시에 이체해도 데드락 없이 총합이 유지됨")
+    void concurrentCrossTransferTest() {
+
+        pointService.charge(1L, 10000);
+        pointService.charge(2L, 10000);
+
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> pointService.transfer(1L, 2L, 1000)),
+                CompletableFuture.runAsync(() -> pointService.transfer(2L, 1L, 3000)),
+                CompletableFuture.runAsync(() -> pointService.transfer(1L, 2L, 2000)),
+                CompletableFuture.runAsync(() -> pointService.transfer(2L, 1L, 500))
+        ).orTimeout(30, TimeUnit.SECONDS).join();
+
+        UserPoint userPoint1 = pointService.findUserPoint(1L);
+        UserPoint userPoint2 = pointService.findUserPoint(2L);
+
+        // 10000 - 1000 + 3000 - 2000 + 500 = 10500
+        assertThat(userPoint1.point()).isEqualTo(10500);
+        // 10000 + 1000 - 3000 + 2000 - 500 = 9500
+        assertThat(userPoint2.point()).isEqualTo(9500);
+        assertThat(pointService.findPointHistory(1L).size()).isEqualTo(5);
+        assertThat(pointService.findPointHistory(2L).size()).isEqualTo(5);
+    }
 }
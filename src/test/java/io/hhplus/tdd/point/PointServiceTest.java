@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,12 +22,21 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class PointServiceTest {
 
     private final long USER_ID = 1L;
+    private final long OTHER_USER_ID = 2L;
     private final Long USER_POINT = 1000L;
     private final Lock lock = new ReentrantLock();
     private UserPoint userPoint;
@@ -41,6 +51,12 @@ class PointServiceTest {
     @Mock
     LockManager lockManager;
 
+    @Mock
+    PointSnapshotStore pointSnapshotStore;
+
+    @Mock
+    PointVelocityLimiter pointVelocityLimiter;
+
     @InjectMocks
     PointService pointService;
 
@@ -58,7 +74,7 @@ class PointServiceTest {
         @DisplayName("신규 User Point 조회")
         void findNewUserPointTest() {
             // given
-            given(userPointTable.selectById(USER_ID)).
+            given(pointSnapshotStore.getUserPoint(USER_ID)).
                     willReturn(emptyUserPoint); // 잔여: 0L
 
             // when
@@ -73,7 +89,7 @@ class PointServiceTest {
         @DisplayName("기존 User Point 조회")
         void findExistingUserPointTest() {
             // given
-            given(userPointTable.selectById(USER_ID))
+            given(pointSnapshotStore.getUserPoint(USER_ID))
                     .willReturn(userPoint); // 잔여: 1000L
 
             // when
@@ -93,7 +109,7 @@ class PointServiceTest {
         @DisplayName("신규 Point History 조회")
         void findEmptyPointHistoryTest(){
             // given
-            given(pointHistoryTable.selectAllByUserId(USER_ID))
+            given(pointSnapshotStore.getPointHistories(USER_ID))
                     .willReturn(Collections.emptyList());
 
             // when
@@ -120,7 +136,7 @@ class PointServiceTest {
                 }
             }
 
-            given(pointHistoryTable.selectAllByUserId(USER_ID))
+            given(pointSnapshotStore.getPointHistories(USER_ID))
                     .willReturn(pointHistories);
 
             // when
@@ -244,4 +260,244 @@ class PointServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("거래 빈도/금액 제한")
+    class velocity {
+
+        @Test
+        @DisplayName("[FAIL] 제한 규칙 위반 시 PointException 발생 및 미반영")
+        void velocityExceedUseTest() {
+            // given
+            given(lockManager.getLock(USER_ID))
+                    .willReturn(lock);
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            willThrow(new PointException(PointErrorCode.VELOCITY_COUNT_EXCEED))
+                    .given(pointVelocityLimiter).check(USER_ID, TransactionType.USE, 1L, 100L);
+
+            // when + then
+            assertThatThrownBy(() -> pointService.use(USER_ID, 100L))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.VELOCITY_COUNT_EXCEED.getMessage());
+
+            verify(pointVelocityLimiter, never()).record(anyLong(), any(), anyLong(), anyLong());
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[FAIL] 검사 통과 후 쓰기가 실패하면 한도를 기록하지 않음")
+        void writeFailureNotRecordedTest() {
+            // given
+            given(lockManager.getLock(USER_ID))
+                    .willReturn(lock);
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.insertOrUpdate(USER_ID, 900L))
+                    .willThrow(new IllegalStateException());
+
+            // when + then
+            assertThatThrownBy(() -> pointService.use(USER_ID, 100L))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(pointVelocityLimiter).check(USER_ID, TransactionType.USE, 1L, 100L);
+            verify(pointVelocityLimiter, never()).record(anyLong(), any(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[SUCCESS] 쓰기가 완료된 거래만 기록")
+        void recordAfterWriteTest() {
+            // given
+            given(lockManager.getLock(USER_ID))
+                    .willReturn(lock);
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.insertOrUpdate(USER_ID, 1100L))
+                    .willReturn(new UserPoint(USER_ID, 1100L, System.currentTimeMillis()));
+
+            // when
+            pointService.charge(USER_ID, 100L);
+
+            // then
+            InOrder inOrder = inOrder(pointVelocityLimiter, userPointTable);
+            inOrder.verify(pointVelocityLimiter).check(USER_ID, TransactionType.CHARGE, 1L, 100L);
+            inOrder.verify(userPointTable).insertOrUpdate(USER_ID, 1100L);
+            inOrder.verify(pointVelocityLimiter).record(USER_ID, TransactionType.CHARGE, 1L, 100L);
+        }
+    }
+
+    @Nested
+    @DisplayName("포인트 이체")
+    class transfer {
+
+        @ParameterizedTest
+        @DisplayName("[FAIL] 0이하의 포인트를 이체하는 경우 PointException 발생")
+        @ValueSource(longs = {-1000L, 0L}) // given
+        void nonPositiveAmountTransferTest(long amount) {
+
+            // when + then
+            assertThatThrownBy(() -> pointService.transfer(USER_ID, OTHER_USER_ID, amount))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.NON_POSITIVE_AMOUNT.getMessage());
+        }
+
+        @Test
+        @DisplayName("[FAIL] 이체 요청 값이 누락된 경우 PointException 발생")
+        void missingFieldTransferTest() {
+
+            // when + then
+            assertThatThrownBy(() -> pointService.transferAll(List.of(new TransferRequest(USER_ID, null, 1000L))))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.MISSING_TRANSFER_FIELD.getMessage());
+        }
+
+        @Test
+        @DisplayName("[FAIL] 자기 자신에게 이체하는 경우 PointException 발생")
+        void selfTransferTest() {
+
+            // when + then
+            assertThatThrownBy(() -> pointService.transfer(USER_ID, USER_ID, 1000L))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.SELF_TRANSFER.getMessage());
+        }
+
+        @Test
+        @DisplayName("[FAIL] 보내는 유저의 포인트가 부족한 경우 PointException 발생 및 미반영")
+        void notEnoughPointTransferTest() {
+            // given
+            given(lockManager.getLocks(anyCollection()))
+                    .willReturn(List.of(lock, new ReentrantLock()));
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.selectById(OTHER_USER_ID))
+                    .willReturn(UserPoint.empty(OTHER_USER_ID));
+
+            // when + then
+            assertThatThrownBy(() -> pointService.transfer(USER_ID, OTHER_USER_ID, 1001L))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.NOT_ENOUGH_POINT.getMessage());
+
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[FAIL] 받는 유저의 포인트가 100,000 초과 시 PointException 발생 및 미반영")
+        void maxPointExceedTransferTest() {
+            // given
+            given(lockManager.getLocks(anyCollection()))
+                    .willReturn(List.of(lock, new ReentrantLock()));
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.selectById(OTHER_USER_ID))
+                    .willReturn(new UserPoint(OTHER_USER_ID, 99500L, System.currentTimeMillis()));
+
+            // when + then
+            assertThatThrownBy(() -> pointService.transfer(USER_ID, OTHER_USER_ID, 1000L))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.MAX_POINT_EXCEED.getMessage());
+
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[FAIL] 보내는 유저가 사용 제한 규칙을 위반하면 PointException 발생 및 미반영")
+        void velocityExceedTransferTest() {
+            // given
+            given(lockManager.getLocks(anyCollection()))
+                    .willReturn(List.of(lock, new ReentrantLock()));
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.selectById(OTHER_USER_ID))
+                    .willReturn(UserPoint.empty(OTHER_USER_ID));
+
+            willThrow(new PointException(PointErrorCode.VELOCITY_COUNT_EXCEED))
+                    .given(pointVelocityLimiter).check(USER_ID, TransactionType.USE, 1L, 600L);
+
+            // when + then
+            assertThatThrownBy(() -> pointService.transfer(USER_ID, OTHER_USER_ID, 600L))
+                    .isInstanceOf(PointException.class)
+                    .hasMessageContaining(PointErrorCode.VELOCITY_COUNT_EXCEED.getMessage());
+
+            verify(pointVelocityLimiter, never()).record(anyLong(), any(), anyLong(), anyLong());
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[SUCCESS] 정상적인 포인트 이체")
+        void transferTest() {
+            // given
+            given(lockManager.getLocks(anyCollection()))
+                    .willReturn(List.of(lock, new ReentrantLock()));
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.selectById(OTHER_USER_ID))
+                    .willReturn(UserPoint.empty(OTHER_USER_ID));
+
+            given(userPointTable.insertOrUpdate(USER_ID, 400L))
+                    .willReturn(new UserPoint(USER_ID, 400L, System.currentTimeMillis()));
+
+            given(userPointTable.insertOrUpdate(OTHER_USER_ID, 600L))
+                    .willReturn(new UserPoint(OTHER_USER_ID, 600L, System.currentTimeMillis()));
+
+            // when
+            UserPoint actualUserPoint = pointService.transfer(USER_ID, OTHER_USER_ID, 600L);
+
+            // then
+            assertThat(actualUserPoint.id()).isEqualTo(USER_ID);
+            assertThat(actualUserPoint.point()).isEqualTo(400L);
+            verify(pointHistoryTable).insert(eq(USER_ID), eq(600L), eq(TransactionType.USE), anyLong());
+            verify(pointHistoryTable).insert(eq(OTHER_USER_ID), eq(600L), eq(TransactionType.CHARGE), anyLong());
+            verify(userPointTable).insertOrUpdate(OTHER_USER_ID, 600L);
+        }
+
+        @Test
+        @DisplayName("[SUCCESS] 여러 이체를 한 번에 처리")
+        void transferAllTest() {
+            // given
+            given(lockManager.getLocks(anyCollection()))
+                    .willReturn(List.of(lock, new ReentrantLock()));
+
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(userPoint); // 잔여: 1000L
+
+            given(userPointTable.selectById(OTHER_USER_ID))
+                    .willReturn(UserPoint.empty(OTHER_USER_ID));
+
+            given(userPointTable.insertOrUpdate(USER_ID, 700L))
+                    .willReturn(new UserPoint(USER_ID, 700L, System.currentTimeMillis()));
+
+            given(userPointTable.insertOrUpdate(OTHER_USER_ID, 300L))
+                    .willReturn(new UserPoint(OTHER_USER_ID, 300L, System.currentTimeMillis()));
+
+            // when
+            List<UserPoint> actualUserPoints = pointService.transferAll(List.of(
+                    new TransferRequest(USER_ID, OTHER_USER_ID, 500L),   // 1000 -> 500,  0 -> 500
+                    new TransferRequest(OTHER_USER_ID, USER_ID, 200L)    // 500 -> 700, 500 -> 300
+            ));
+
+            // then
+            assertThat(actualUserPoints).extracting(UserPoint::point)
+                    .containsExactly(700L, 300L);
+            verify(pointVelocityLimiter).record(USER_ID, TransactionType.USE, 1L, 500L);
+            verify(pointVelocityLimiter).record(OTHER_USER_ID, TransactionType.USE, 1L, 200L);
+        }
+    }
+
 }
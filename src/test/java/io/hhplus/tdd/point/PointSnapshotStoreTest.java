@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointSnapshotStoreTest {
+
+    private final long USER_ID = 1L;
+
+    private final PointSnapshotStore pointSnapshotStore = new PointSnapshotStore();
+
+    @Test
+    @DisplayName("게시된 적 없는 유저는 빈 포인트와 빈 내역 조회")
+    void emptySnapshotTest() {
+
+        assertThat(pointSnapshotStore.getUserPoint(USER_ID).point()).isEqualTo(0L);
+        assertThat(pointSnapshotStore.getPointHistories(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시 이후에도 이전에 조회한 스냅샷은 변하지 않음")
+    void immutableSnapshotTest() {
+        // given
+        PointHistory charge = new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory use = new PointHistory(2L, USER_ID, 400L, TransactionType.USE, System.currentTimeMillis());
+        pointSnapshotStore.publish(new UserPoint(USER_ID, 1000L, System.currentTimeMillis()), List.of(charge));
+        List<PointHistory> before = pointSnapshotStore.getPointHistories(USER_ID);
+
+        // when
+        pointSnapshotStore.publish(new UserPoint(USER_ID, 600L, System.currentTimeMillis()), List.of(use));
+
+        // then
+        assertThat(before).containsExactly(charge);
+        assertThat(pointSnapshotStore.getPointHistories(USER_ID)).containsExactly(charge, use);
+        assertThat(pointSnapshotStore.getUserPoint(USER_ID).point()).isEqualTo(600L);
+    }
+}
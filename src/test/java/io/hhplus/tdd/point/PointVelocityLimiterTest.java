@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointVelocityLimiterTest {
+
+    private final long USER_ID = 1L;
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(365));
+
+    private final PointVelocityLimiter limiter = new PointVelocityLimiter(new VelocityProperties(true, Duration.ofHours(1), List.of(
+            new VelocityProperties.Rule(TransactionType.USE, VelocityProperties.Metric.COUNT, 3, Duration.ofMinutes(1)),
+            new VelocityProperties.Rule(TransactionType.CHARGE, VelocityProperties.Metric.AMOUNT, 50000, Duration.ofDays(1))
+    )), now::get);
+
+    /**
+     * PointService 와 같이 검사 후 기록한다.
+     */
+    private void acquire(long userId, TransactionType type, long amount) {
+        limiter.check(userId, type, 1, amount);
+        limiter.record(userId, type, 1, amount);
+    }
+
+    @Test
+    @DisplayName("[FAIL] 윈도우 내 사용 횟수 초과 시 PointException 발생")
+    void countExceedTest() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            acquire(USER_ID, TransactionType.USE, 100L);
+        }
+
+        // when + then
+        assertThatThrownBy(() -> acquire(USER_ID, TransactionType.USE, 100L))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.VELOCITY_COUNT_EXCEED.getMessage());
+    }
+
+    @Test
+    @DisplayName("[SUCCESS] 윈도우가 지나면 다시 사용 가능")
+    void slidingWindowTest() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            acquire(USER_ID, TransactionType.USE, 100L);
+        }
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toMillis(62));
+
+        // then
+        assertThatCode(() -> acquire(USER_ID, TransactionType.USE, 100L))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("[FAIL] 구간 끝에 기록한 뒤 window 직전까지는 여전히 제한")
+    void bucketBoundaryTest() {
+        // given - 1초 구간의 마지막 시각에 기록
+        now.addAndGet(999L);
+        for (int i = 0; i < 3; i++) {
+            acquire(USER_ID, TransactionType.USE, 100L);
+        }
+
+        // when - window(60s) 보다 1ms 짧게 지난 시점
+        now.addAndGet(TimeUnit.MINUTES.toMillis(1) - 1);
+
+        // then
+        assertThatThrownBy(() -> acquire(USER_ID, TransactionType.USE, 100L))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.VELOCITY_COUNT_EXCEED.getMessage());
+    }
+
+    @Test
+    @DisplayName("[FAIL] 하루 충전 금액 구간 끝에 기록한 뒤 window 직전까지는 여전히 제한")
+    void dailyBucketBoundaryTest() {
+        // given - 24분 구간의 마지막 시각에 기록
+        now.addAndGet(TimeUnit.MINUTES.toMillis(24) - 1);
+        acquire(USER_ID, TransactionType.CHARGE, 50000L);
+
+        // when - window(1d) 보다 1ms 짧게 지난 시점
+        now.addAndGet(TimeUnit.DAYS.toMillis(1) - 1);
+
+        // then
+        assertThatThrownBy(() -> acquire(USER_ID, TransactionType.CHARGE, 1L))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.VELOCITY_AMOUNT_EXCEED.getMessage());
+    }
+
+    @Test
+    @DisplayName("[FAIL] 하루 충전 금액 초과 시 PointException 발생, 거절된 금액은 기록되지 않음")
+    void amountExceedTest() {
+        // given
+        acquire(USER_ID, TransactionType.CHARGE, 40000L);
+
+        // when + then
+        assertThatThrownBy(() -> acquire(USER_ID, TransactionType.CHARGE, 20000L))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.VELOCITY_AMOUNT_EXCEED.getMessage());
+        assertThatCode(() -> acquire(USER_ID, TransactionType.CHARGE, 10000L))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("[FAIL] 여러 건을 한 번에 검사하면 건수 합계로 제한, 검사만으로는 기록되지 않음")
+    void batchCheckTest() {
+        // when + then
+        assertThatThrownBy(() -> limiter.check(USER_ID, TransactionType.USE, 4L, 400L))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.VELOCITY_COUNT_EXCEED.getMessage());
+        assertThatCode(() -> limiter.check(USER_ID, TransactionType.USE, 3L, 300L))
+                .doesNotThrowAnyException();
+        assertThat(limiter.trackedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("[FAIL] 기록된 일괄 거래 이후 한도 초과 시 PointException 발생")
+    void batchRecordTest() {
+        // given
+        limiter.check(USER_ID, TransactionType.USE, 3L, 300L);
+        limiter.record(USER_ID, TransactionType.USE, 3L, 300L);
+
+        // when + then
+        assertThatThrownBy(() -> acquire(USER_ID, TransactionType.USE, 100L))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.VELOCITY_COUNT_EXCEED.getMessage());
+    }
+
+    @Test
+    @DisplayName("[SUCCESS] 유저별로 독립적으로 제한")
+    void perUserTest() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            acquire(USER_ID, TransactionType.USE, 100L);
+        }
+
+        // when + then
+        assertThatCode(() -> acquire(2L, TransactionType.USE, 100L))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("[SUCCESS] 모든 윈도우가 지난 유저의 상태는 제거")
+    void evictIdleTest() {
+        // given
+        acquire(USER_ID, TransactionType.USE, 100L);
+        now.addAndGet(TimeUnit.HOURS.toMillis(1));
+        acquire(2L, TransactionType.USE, 100L);
+
+        // when
+        now.addAndGet(TimeUnit.DAYS.toMillis(2));
+        acquire(3L, TransactionType.USE, 100L);
+        limiter.evictIdle();
+
+        // then
+        assertThat(limiter.trackedUsers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[SUCCESS] 유휴 상태 검사 주기는 제거 기준과 무관하게 최대 1분")
+    void sweepPeriodTest() {
+
+        assertThat(limiter.sweepPeriodMillis()).isEqualTo(TimeUnit.MINUTES.toMillis(1));
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VelocityPropertiesTest {
+
+    @Test
+    @DisplayName("[FAIL] 규칙의 type, metric, window 누락 시 IllegalArgumentException 발생")
+    void missingFieldRuleTest() {
+
+        assertThatThrownBy(() -> new VelocityProperties.Rule(null, VelocityProperties.Metric.COUNT, 20, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("type");
+        assertThatThrownBy(() -> new VelocityProperties.Rule(TransactionType.USE, null, 20, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("metric");
+        assertThatThrownBy(() -> new VelocityProperties.Rule(TransactionType.USE, VelocityProperties.Metric.COUNT, 20, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("window");
+    }
+
+    @Test
+    @DisplayName("[FAIL] 규칙의 limit, window 가 0 이하이면 IllegalArgumentException 발생")
+    void nonPositiveRuleTest() {
+
+        assertThatThrownBy(() -> new VelocityProperties.Rule(TransactionType.USE, VelocityProperties.Metric.COUNT, 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit");
+        assertThatThrownBy(() -> new VelocityProperties.Rule(TransactionType.USE, VelocityProperties.Metric.COUNT, 20, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("window");
+    }
+
+    @Test
+    @DisplayName("[SUCCESS] 올바른 규칙 생성")
+    void validRuleTest() {
+
+        assertThatCode(() -> new VelocityProperties.Rule(TransactionType.CHARGE, VelocityProperties.Metric.AMOUNT, 50000, Duration.ofDays(1)))
+                .doesNotThrowAnyException();
+    }
+}